@@ -0,0 +1,86 @@
+package com.example.jexpression.async;
+
+import com.example.jexpression.droolsfeel.FeelRuleEngine;
+import com.example.jexpression.droolsfeel.model.FeelRule;
+import com.example.jexpression.model.Action;
+import com.example.jexpression.model.Rule;
+import com.example.jexpression.service.RuleService;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Non-blocking facade over {@link RuleService} and {@link FeelRuleEngine}.
+ * 
+ * Concurrent single-item requests for the same rule(s) are micro-batched and
+ * evaluated together on a dedicated executor, so callers on event-loop threads
+ * never block.
+ */
+@Service
+public class AsyncRuleEvaluator {
+
+    private record FeelKey(List<FeelRule> rules, String contextName) {
+    }
+
+    private final ExecutorService executor;
+    private final MicroBatcher<Rule, Object, Optional<Action>> jsonLogicBatcher;
+    private final MicroBatcher<FeelKey, Object, List<String>> feelBatcher;
+
+    public AsyncRuleEvaluator(RuleService ruleService, FeelRuleEngine feelEngine,
+                              @Value("${jexpression.async.max-batch-size:64}") int maxBatchSize,
+                              @Value("${jexpression.async.max-delay-micros:200}") long maxDelayMicros,
+                              @Value("${jexpression.async.threads:0}") int threads) {
+        this.executor = Executors.newFixedThreadPool(
+                threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                daemonThreads("rule-eval"));
+        this.jsonLogicBatcher = new MicroBatcher<>("json-logic-batch",
+                ruleService::evaluateAll, executor, maxBatchSize, maxDelayMicros);
+        this.feelBatcher = new MicroBatcher<>("feel-batch",
+                (key, dtos) -> feelEngine.validateAll(key.rules(), dtos, key.contextName()),
+                executor, maxBatchSize, maxDelayMicros);
+    }
+
+    /**
+     * Async {@link RuleService#evaluate(Rule, Object)}.
+     */
+    public CompletableFuture<Optional<Action>> evaluate(Rule rule, Object data) {
+        Objects.requireNonNull(rule, "rule must not be null");
+        return jsonLogicBatcher.submit(rule, data);
+    }
+
+    /**
+     * Async {@link FeelRuleEngine#validate(List, Object, String)}.
+     */
+    public CompletableFuture<List<String>> validate(List<FeelRule> rules, Object dto, String contextName) {
+        Objects.requireNonNull(dto, "dto must not be null");
+        Objects.requireNonNull(contextName, "contextName must not be null");
+        return feelBatcher.submit(new FeelKey(rules, contextName), dto);
+    }
+
+    @PreDestroy
+    public void close() throws InterruptedException {
+        jsonLogicBatcher.close();
+        feelBatcher.close();
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + "-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
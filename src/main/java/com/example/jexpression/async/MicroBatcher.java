@@ -0,0 +1,162 @@
+package com.example.jexpression.async;
+
+import com.example.jexpression.service.ItemResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces concurrent single requests into batches.
+ * 
+ * A collector thread waits for the first request, then keeps collecting until
+ * the batch is full or the max delay has passed. Requests with equal keys are
+ * handed to the handler together on the executor.
+ *
+ * @param <K> Batch key, e.g. the rule being evaluated
+ * @param <I> Request input
+ * @param <O> Result per input
+ */
+public final class MicroBatcher<K, I, O> implements AutoCloseable {
+
+    /**
+     * Evaluates a batch of inputs sharing a key.
+     */
+    @FunctionalInterface
+    public interface BatchHandler<K, I, O> {
+        /**
+         * @return One result per input, in order; a failed item fails only its own future
+         */
+        List<ItemResult<O>> handle(K key, List<I> inputs) throws Exception;
+    }
+
+    private record Pending<K, I, O>(K key, I input, CompletableFuture<O> future) {
+    }
+
+    private static final long IDLE_POLL_MILLIS = 100;
+
+    private final BatchHandler<K, I, O> handler;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final long maxDelayNanos;
+    private final BlockingQueue<Pending<K, I, O>> queue = new LinkedBlockingQueue<>();
+    private final Thread collector;
+    private final Object lifecycleLock = new Object();
+    private volatile boolean running = true; // written under lifecycleLock
+
+    public MicroBatcher(String name, BatchHandler<K, I, O> handler, Executor executor,
+                        int maxBatchSize, long maxDelayMicros) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+        this.handler = handler;
+        this.executor = executor;
+        this.maxBatchSize = maxBatchSize;
+        this.maxDelayNanos = TimeUnit.MICROSECONDS.toNanos(maxDelayMicros);
+        this.collector = new Thread(this::collect, name + "-collector");
+        this.collector.setDaemon(true);
+        this.collector.start();
+    }
+
+    public CompletableFuture<O> submit(K key, I input) {
+        var future = new CompletableFuture<O>();
+        // Enqueue atomically with close() so nothing is added after the final drain
+        synchronized (lifecycleLock) {
+            if (!running) {
+                return CompletableFuture.failedFuture(new RejectedExecutionException("Batcher is closed"));
+            }
+            queue.add(new Pending<>(key, input, future));
+        }
+        return future;
+    }
+
+    /**
+     * Stop accepting requests, dispatch what is queued and stop the collector.
+     */
+    @Override
+    public void close() throws InterruptedException {
+        synchronized (lifecycleLock) {
+            running = false;
+        }
+        collector.join();
+
+        Pending<K, I, O> late;
+        while ((late = queue.poll()) != null) {
+            late.future().completeExceptionally(new RejectedExecutionException("Batcher is closed"));
+        }
+    }
+
+    private void collect() {
+        List<Pending<K, I, O>> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (running || !queue.isEmpty()) {
+                Pending<K, I, O> first = queue.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < maxBatchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    Pending<K, I, O> next = remaining > 0
+                            ? queue.poll(remaining, TimeUnit.NANOSECONDS)
+                            : queue.poll();
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+
+                dispatch(batch);
+                batch = new ArrayList<>(maxBatchSize);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            batch.forEach(p -> p.future().completeExceptionally(new RejectedExecutionException("Batcher is closed")));
+        }
+    }
+
+    private void dispatch(List<Pending<K, I, O>> batch) {
+        Map<K, List<Pending<K, I, O>>> byKey = new LinkedHashMap<>();
+        for (Pending<K, I, O> pending : batch) {
+            byKey.computeIfAbsent(pending.key(), k -> new ArrayList<>()).add(pending);
+        }
+
+        byKey.forEach((key, group) -> {
+            try {
+                executor.execute(() -> run(key, group));
+            } catch (RejectedExecutionException e) {
+                group.forEach(p -> p.future().completeExceptionally(e));
+            }
+        });
+    }
+
+    private void run(K key, List<Pending<K, I, O>> group) {
+        try {
+            List<ItemResult<O>> results = handler.handle(key, group.stream().map(Pending::input).toList());
+            if (results.size() != group.size()) {
+                throw new IllegalStateException(
+                        "Expected %d results but got %d".formatted(group.size(), results.size()));
+            }
+            for (int i = 0; i < group.size(); i++) {
+                ItemResult<O> result = results.get(i);
+                if (result.isSuccess()) {
+                    group.get(i).future().complete(result.value());
+                } else {
+                    group.get(i).future().completeExceptionally(result.error());
+                }
+            }
+        } catch (Exception e) {
+            group.forEach(p -> p.future().completeExceptionally(e));
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.example.jexpression.binding;
+
+import java.time.LocalDate;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Transaction bound to a {@link RecordSchema}: one primitive or reference slot per field.
+ * 
+ * Numbers, booleans and dates (as epoch days) live unboxed in a double array;
+ * strings, and arrays or objects no rule navigates into, are references.
+ * {@link #asMap()} exposes the record as nested maps for the FEEL and JsonLogic
+ * engines without copying it.
+ */
+public final class FlatRecord {
+
+    static final byte ABSENT = 0;
+    static final byte NULL = 1;
+    static final byte NUMBER = 2;
+    static final byte BOOLEAN = 3;
+    static final byte DATE = 4;
+    static final byte STRING = 5;
+    static final byte OBJECT = 6;
+    static final byte INTEGER = 7;
+    static final byte VALUE = 8;
+
+    /**
+     * Largest integer a double holds exactly; bigger ones keep their JSON text.
+     */
+    private static final double MAX_EXACT_INTEGER = 0x1p53;
+
+    private final RecordSchema schema;
+    private final byte[] kinds;
+    private final double[] numbers;
+    private final Object[] refs;
+
+    FlatRecord(RecordSchema schema) {
+        this.schema = schema;
+        this.kinds = new byte[schema.slotCount()];
+        this.numbers = new double[schema.slotCount()];
+        this.refs = new Object[schema.slotCount()];
+    }
+
+    public RecordSchema schema() {
+        return schema;
+    }
+
+    public boolean isPresent(int slot) {
+        return kinds[slot] != ABSENT;
+    }
+
+    public boolean isNumber(int slot) {
+        return kinds[slot] == NUMBER || kinds[slot] == INTEGER;
+    }
+
+    public double getDouble(int slot) {
+        return numbers[slot];
+    }
+
+    public String getString(int slot) {
+        return kinds[slot] == STRING ? (String) refs[slot] : null;
+    }
+
+    /**
+     * @return Date of a slot bound as DATE, null otherwise
+     */
+    public LocalDate getDate(int slot) {
+        return kinds[slot] == DATE ? LocalDate.ofEpochDay((long) numbers[slot]) : null;
+    }
+
+    /**
+     * Boxed value of a slot; objects come back as map views.
+     */
+    public Object get(int slot) {
+        return switch (kinds[slot]) {
+            case NUMBER, INTEGER -> numbers[slot];
+            case BOOLEAN -> numbers[slot] != 0;
+            case DATE -> LocalDate.ofEpochDay((long) numbers[slot]);
+            case STRING, VALUE -> refs[slot];
+            case OBJECT -> new View(schema.node(slot));
+            default -> null;
+        };
+    }
+
+    /**
+     * Boxed value of a dotted path, null if absent or not in the schema.
+     */
+    public Object get(String path) {
+        int slot = schema.slot(path);
+        return slot < 0 ? null : get(slot);
+    }
+
+    /**
+     * Value of a path as JsonPath renders it from the source JSON, e.g. "5" for 5
+     * and "5.0" for 5.0; null if absent or not in the schema.
+     */
+    public String getText(String path) {
+        int slot = schema.slot(path);
+        if (slot < 0) {
+            return null;
+        }
+        return switch (kinds[slot]) {
+            case ABSENT -> null;
+            case NULL -> "null";
+            case INTEGER -> refs[slot] != null ? (String) refs[slot] : Long.toString((long) numbers[slot]);
+            case NUMBER -> Double.toString(numbers[slot]);
+            case DATE, STRING -> (String) refs[slot]; // Dates keep their source text
+            default -> String.valueOf(get(slot));
+        };
+    }
+
+    public boolean isPresent(String path) {
+        int slot = schema.slot(path);
+        return slot >= 0 && isPresent(slot);
+    }
+
+    public Map<String, Object> asMap() {
+        return new View(schema.root());
+    }
+
+    void setNull(int slot) {
+        kinds[slot] = NULL;
+    }
+
+    void setObject(int slot) {
+        kinds[slot] = OBJECT;
+    }
+
+    void setNumber(int slot, double value) {
+        kinds[slot] = NUMBER;
+        numbers[slot] = value;
+    }
+
+    void setInteger(int slot, double value, String text) {
+        kinds[slot] = INTEGER;
+        numbers[slot] = value;
+        refs[slot] = Math.abs(value) < MAX_EXACT_INTEGER ? null : text;
+    }
+
+    void setBoolean(int slot, boolean value) {
+        kinds[slot] = BOOLEAN;
+        numbers[slot] = value ? 1 : 0;
+    }
+
+    void setDate(int slot, LocalDate value, String text) {
+        kinds[slot] = DATE;
+        numbers[slot] = value.toEpochDay();
+        refs[slot] = text;
+    }
+
+    void setString(int slot, String value) {
+        kinds[slot] = STRING;
+        refs[slot] = value;
+    }
+
+    /**
+     * Bind a plain JSON value (list, map or scalar) as parsed.
+     */
+    void setValue(int slot, Object value) {
+        kinds[slot] = value == null ? NULL : VALUE;
+        refs[slot] = value;
+    }
+
+    /**
+     * Read-only map view of an object node; only present fields are visible.
+     */
+    private final class View extends AbstractMap<String, Object> {
+
+        private final RecordSchema.Node node;
+
+        View(RecordSchema.Node node) {
+            this.node = node;
+        }
+
+        @Override
+        public Object get(Object key) {
+            RecordSchema.Node child = node.children.get(key);
+            return child == null ? null : FlatRecord.this.get(child.slot);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            RecordSchema.Node child = node.children.get(key);
+            return child != null && isPresent(child.slot);
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<String, Object>> iterator() {
+                    Iterator<RecordSchema.Node> children = node.children.values().iterator();
+                    return new Iterator<>() {
+                        private RecordSchema.Node next = advance();
+
+                        private RecordSchema.Node advance() {
+                            while (children.hasNext()) {
+                                RecordSchema.Node child = children.next();
+                                if (isPresent(child.slot)) {
+                                    return child;
+                                }
+                            }
+                            return null;
+                        }
+
+                        @Override
+                        public boolean hasNext() {
+                            return next != null;
+                        }
+
+                        @Override
+                        public Entry<String, Object> next() {
+                            if (next == null) {
+                                throw new NoSuchElementException();
+                            }
+                            RecordSchema.Node current = next;
+                            next = advance();
+                            String name = current.path.substring(current.path.lastIndexOf('.') + 1);
+                            return new SimpleImmutableEntry<>(name, FlatRecord.this.get(current.slot));
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    int size = 0;
+                    for (RecordSchema.Node child : node.children.values()) {
+                        if (isPresent(child.slot)) {
+                            size++;
+                        }
+                    }
+                    return size;
+                }
+            };
+        }
+    }
+}
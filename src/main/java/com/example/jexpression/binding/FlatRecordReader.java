@@ -0,0 +1,137 @@
+package com.example.jexpression.binding;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Binds JSON straight into a {@link FlatRecord} with Jackson's streaming parser.
+ * 
+ * Fields outside the schema are skipped without being materialized. Arrays, and
+ * objects the schema doesn't navigate into, are bound whole as Lists and Maps.
+ */
+public final class FlatRecordReader {
+
+    private final RecordSchema schema;
+    private final JsonFactory factory;
+
+    public FlatRecordReader(RecordSchema schema, JsonFactory factory) {
+        this.schema = schema;
+        this.factory = factory;
+    }
+
+    public FlatRecord read(byte[] json) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            return read(parser);
+        }
+    }
+
+    public FlatRecord read(InputStream json) throws IOException {
+        try (JsonParser parser = factory.createParser(json)) {
+            return read(parser);
+        }
+    }
+
+    private FlatRecord read(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected a JSON object");
+        }
+        FlatRecord record = new FlatRecord(schema);
+        readObject(parser, schema.root(), record);
+        return record;
+    }
+
+    private void readObject(JsonParser parser, RecordSchema.Node node, FlatRecord record) throws IOException {
+        record.setObject(node.slot);
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            RecordSchema.Node child = node.child(parser.currentName());
+            JsonToken token = parser.nextToken();
+
+            if (child == null) {
+                parser.skipChildren(); // No rule reads it
+            } else if (token == JsonToken.START_OBJECT && child.isObject()) {
+                readObject(parser, child, record);
+            } else if (child.isObject() || token.isStructStart()) {
+                // Shape the schema doesn't navigate into: bind it whole, as a Map conversion would
+                record.setValue(child.slot, readPlain(parser, token));
+            } else {
+                readValue(parser, token, child, record);
+            }
+        }
+    }
+
+    private void readValue(JsonParser parser, JsonToken token, RecordSchema.Node node, FlatRecord record)
+            throws IOException {
+        int slot = node.slot;
+        switch (token) {
+            case VALUE_NULL -> record.setNull(slot);
+            case VALUE_TRUE, VALUE_FALSE -> record.setBoolean(slot, token == JsonToken.VALUE_TRUE);
+            case VALUE_NUMBER_INT -> record.setInteger(slot, parser.getDoubleValue(), parser.getText());
+            case VALUE_NUMBER_FLOAT -> record.setNumber(slot, parser.getDoubleValue());
+            case VALUE_STRING -> readString(parser.getText(), node, record);
+            default -> throw new JsonParseException(parser, "Unexpected token " + token);
+        }
+    }
+
+    private void readString(String text, RecordSchema.Node node, FlatRecord record) {
+        switch (node.type) {
+            case NUMBER -> {
+                try {
+                    record.setNumber(node.slot, Double.parseDouble(text));
+                } catch (NumberFormatException e) {
+                    record.setString(node.slot, text);
+                }
+            }
+            case DATE -> {
+                try {
+                    record.setDate(node.slot, LocalDate.parse(text), text);
+                } catch (DateTimeParseException e) {
+                    record.setString(node.slot, text);
+                }
+            }
+            default -> record.setString(node.slot, text);
+        }
+    }
+
+    /**
+     * Read a JSON value into Lists, Maps and boxed scalars.
+     */
+    private static Object readPlain(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case START_ARRAY -> {
+                List<Object> list = new ArrayList<>();
+                JsonToken next;
+                while ((next = parser.nextToken()) != JsonToken.END_ARRAY) {
+                    list.add(readPlain(parser, next));
+                }
+                yield list;
+            }
+            case START_OBJECT -> {
+                Map<String, Object> map = new LinkedHashMap<>();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    map.put(name, readPlain(parser, parser.nextToken()));
+                }
+                yield map;
+            }
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT -> parser.getNumberValue();
+            case VALUE_NUMBER_FLOAT -> parser.getDoubleValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case VALUE_NULL -> null;
+            default -> throw new JsonParseException(parser, "Unexpected token " + token);
+        };
+    }
+}
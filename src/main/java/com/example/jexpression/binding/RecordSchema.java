@@ -0,0 +1,272 @@
+package com.example.jexpression.binding;
+
+import com.example.jexpression.droolsfeel.model.Validation;
+import com.example.jexpression.droolsfeel.model.ValidationRule;
+import com.example.jexpression.model.Rule;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Flat slot layout for the fields loaded rules actually read.
+ * 
+ * Every referenced path and each of its parent objects gets a slot; fields no
+ * rule references have none and are skipped when binding. Values are bound by
+ * JSON token type, except that NUMBER and DATE fields parse JSON strings.
+ */
+public final class RecordSchema {
+
+    public enum FieldType {
+        /** JSON strings are parsed as numbers, like a Double DTO field. */
+        NUMBER,
+        /** JSON strings are parsed as ISO dates. */
+        DATE,
+        STRING,
+        /** Referenced with conflicting or unknown types. */
+        ANY
+    }
+
+    static final class Node {
+        final String path;
+        final int slot;
+        final FieldType type; // null for object nodes
+        final Map<String, Node> children;
+
+        private Node(String path, int slot, FieldType type, Map<String, Node> children) {
+            this.path = path;
+            this.slot = slot;
+            this.type = type;
+            this.children = children;
+        }
+
+        boolean isObject() {
+            return !children.isEmpty() || type == null;
+        }
+
+        Node child(String name) {
+            return children.get(name);
+        }
+    }
+
+    private final Node root;
+    private final Node[] nodes;
+    private final Map<String, Node> byPath;
+    private final Set<String> fields;
+    private final Map<Rule, Boolean> coverage = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private RecordSchema(Node root, Node[] nodes, Set<String> fields) {
+        this.root = root;
+        this.nodes = nodes;
+        this.fields = fields;
+        Map<String, Node> index = new HashMap<>();
+        for (Node node : nodes) {
+            index.put(node.path, node);
+        }
+        this.byPath = index;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int slotCount() {
+        return nodes.length;
+    }
+
+    /**
+     * @return Slot of a dotted path, or -1 if no rule reads it
+     */
+    public int slot(String path) {
+        Node node = byPath.get(path);
+        return node == null ? -1 : node.slot;
+    }
+
+    /**
+     * Leaf paths referenced by the rules.
+     */
+    public Set<String> fields() {
+        return fields;
+    }
+
+    /**
+     * Whether every index key and "var", "missing" and "missing_some" path of a rule has
+     * a slot; fields outside the schema aren't bound, so an uncovered rule would read
+     * them as absent. The answer is cached per rule instance.
+     * 
+     * @throws IllegalArgumentException if the rule computes a path at evaluation time
+     */
+    public boolean covers(Rule rule) {
+        Boolean covered = coverage.get(rule);
+        if (covered == null) {
+            Set<String> paths = new LinkedHashSet<>();
+            if (rule.getIndex() != null) {
+                paths.addAll(rule.getIndex().keySet());
+            }
+            collectReferences(rule.getLogic(), paths::add);
+            covered = paths.stream().allMatch(path -> byPath.containsKey(path));
+            coverage.put(rule, covered);
+        }
+        return covered;
+    }
+
+    Node root() {
+        return root;
+    }
+
+    Node node(int slot) {
+        return nodes[slot];
+    }
+
+    private static void collectReferences(Object logic, Consumer<String> paths) {
+        if (logic instanceof Map<?, ?> map) {
+            map.forEach((op, args) -> {
+                switch (String.valueOf(op)) {
+                    case "var" -> {
+                        List<?> varArgs = args instanceof List<?> list ? list : Arrays.asList(args);
+                        if (!varArgs.isEmpty()) {
+                            literalPath(op, varArgs.get(0), paths);
+                            collectReferences(varArgs.subList(1, varArgs.size()), paths); // default value
+                        }
+                    }
+                    case "missing" -> (args instanceof List<?> list ? list : Arrays.asList(args))
+                            .forEach(path -> literalPath(op, path, paths));
+                    case "missing_some" -> {
+                        if (!(args instanceof List<?> list) || list.size() != 2 || !(list.get(1) instanceof List<?> some)) {
+                            throw unsupported(op, args);
+                        }
+                        some.forEach(path -> literalPath(op, path, paths));
+                    }
+                    default -> collectReferences(args, paths);
+                }
+            });
+        } else if (logic instanceof List<?> list) {
+            list.forEach(item -> collectReferences(item, paths));
+        }
+    }
+
+    /**
+     * Report a literal data path; computed paths can't be known up front, so they are rejected.
+     */
+    private static void literalPath(Object op, Object path, Consumer<String> paths) {
+        if (path == null || path instanceof Number || "".equals(path)) {
+            return; // Whole data or array index, nothing to bind
+        }
+        if (!(path instanceof String p)) {
+            throw unsupported(op, path);
+        }
+        paths.accept(p);
+    }
+
+    private static IllegalArgumentException unsupported(Object op, Object args) {
+        return new IllegalArgumentException(
+                "Unsupported JsonLogic reference for flat binding: {\"%s\": %s}".formatted(op, args));
+    }
+
+    public static final class Builder {
+
+        private final Map<String, FieldType> fields = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        /**
+         * Add a field; a path declared twice with different types becomes {@link FieldType#ANY}.
+         */
+        public Builder field(String path, FieldType type) {
+            Objects.requireNonNull(path, "path must not be null");
+            Objects.requireNonNull(type, "type must not be null");
+            fields.merge(path, type, (a, b) -> a == b ? a : FieldType.ANY);
+            return this;
+        }
+
+        /**
+         * Add the fields read by FEEL validation rules, e.g. "transaction.amount" with contextName "transaction".
+         * 
+         * @throws IllegalArgumentException if a field isn't under contextName
+         */
+        public Builder validationRules(List<ValidationRule> rules, String contextName) {
+            String prefix = contextName + ".";
+            for (ValidationRule rule : rules) {
+                for (Validation v : rule.validations()) {
+                    if (!v.field().startsWith(prefix)) {
+                        throw new IllegalArgumentException("Field %s of rule %s is not under context %s"
+                                .formatted(v.field(), rule.code(), contextName));
+                    }
+                    field(v.field().substring(prefix.length()), feelType(v.type()));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Add the fields read by JsonLogic rules: index filter keys and "var", "missing"
+         * and "missing_some" paths.
+         * 
+         * @throws IllegalArgumentException if a rule computes a path at evaluation time
+         */
+        public Builder rules(List<Rule> rules) {
+            for (Rule rule : rules) {
+                if (rule.getIndex() != null) {
+                    rule.getIndex().keySet().forEach(key -> field(key, FieldType.STRING));
+                }
+                collectReferences(rule.getLogic(), path -> field(path, FieldType.ANY));
+            }
+            return this;
+        }
+
+        public RecordSchema build() {
+            MutableNode root = new MutableNode();
+            fields.forEach((path, type) -> {
+                MutableNode node = root;
+                for (String segment : path.split("\\.")) {
+                    node = node.children.computeIfAbsent(segment, s -> new MutableNode());
+                }
+                node.type = type;
+            });
+
+            List<Node> nodes = new ArrayList<>();
+            Node frozen = freeze("", root, nodes);
+            return new RecordSchema(frozen, nodes.toArray(Node[]::new),
+                    Collections.unmodifiableSet(new LinkedHashSet<>(fields.keySet())));
+        }
+
+        private static Node freeze(String path, MutableNode node, List<Node> nodes) {
+            int slot = nodes.size();
+            nodes.add(null); // reserve the slot, parents before children
+
+            Map<String, Node> children = new HashMap<>();
+            node.children.forEach((name, child) ->
+                    children.put(name, freeze(path.isEmpty() ? name : path + "." + name, child, nodes)));
+
+            Node frozen = new Node(path, slot, children.isEmpty() ? node.type : null,
+                    Collections.unmodifiableMap(children));
+            nodes.set(slot, frozen);
+            return frozen;
+        }
+
+        private static FieldType feelType(String type) {
+            if ("number".equals(type)) {
+                return FieldType.NUMBER;
+            }
+            if ("date".equals(type)) {
+                return FieldType.DATE;
+            }
+            return FieldType.STRING;
+        }
+    }
+
+    private static final class MutableNode {
+        FieldType type;
+        final Map<String, MutableNode> children = new LinkedHashMap<>();
+    }
+}
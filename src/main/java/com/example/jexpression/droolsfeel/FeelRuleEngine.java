@@ -1,13 +1,28 @@
 package com.example.jexpression.droolsfeel;
 
+import com.example.jexpression.binding.FlatRecord;
 import com.example.jexpression.droolsfeel.model.FeelRule;
+import com.example.jexpression.droolsfeel.tenant.CompiledRule;
+import com.example.jexpression.droolsfeel.tenant.FeelNode;
+import com.example.jexpression.droolsfeel.tenant.TenantRuleSet;
+import com.example.jexpression.monitoring.EvaluationOutcome;
+import com.example.jexpression.monitoring.RuleBatchEvaluationEvent;
+import com.example.jexpression.monitoring.RuleEvaluationEvent;
+import com.example.jexpression.monitoring.RuleSetEvaluationEvent;
+import com.example.jexpression.service.ItemResult;
 import org.kie.dmn.feel.FEEL;
+import org.kie.dmn.feel.lang.CompiledExpression;
+import org.kie.dmn.feel.lang.CompilerContext;
+import org.kie.dmn.feel.lang.types.BuiltInType;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.BooleanSupplier;
 
 /**
  * FEEL Rule Engine.
@@ -17,13 +32,28 @@ import java.util.Objects;
 @Service
 public class FeelRuleEngine {
 
+    public static final String ENGINE = "FEEL";
+
+    /**
+     * Upper bound on cached compiled expressions used by {@link #validateAll}.
+     */
+    static final int COMPILED_CACHE_SIZE = 1024;
+
     private final FEEL feel = FEEL.newInstance();
 
+    // Least recently used expressions are evicted one at a time; guarded by itself
+    private final Map<String, CompiledExpression> compiledCache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledExpression> eldest) {
+            return size() > COMPILED_CACHE_SIZE;
+        }
+    };
+
     /**
      * Validate a DTO against FEEL rules.
      * 
      * @param rules       List of rules with combined FEEL expressions
-     * @param dto         Your DTO object (e.g., Transaction)
+     * @param dto         Your DTO object (e.g., Transaction or a bound FlatRecord)
      * @param contextName Key name for FEEL context (e.g., "transaction")
      * @return List of failed rule codes (empty = all passed)
      */
@@ -32,20 +62,167 @@ public class FeelRuleEngine {
         Objects.requireNonNull(contextName, "contextName must not be null");
 
         Map<String, Object> context = new HashMap<>();
-        context.put(contextName, dto);
+        context.put(contextName, bind(dto));
+
+        var ruleSetEvent = new RuleSetEvaluationEvent();
+        ruleSetEvent.begin();
 
-        return rules.stream()
-                .filter(rule -> !evaluate(rule.expression(), context))
+        List<String> failures = rules.stream()
+                .filter(rule -> !evaluate(rule.code(),
+                        () -> Boolean.TRUE.equals(feel.evaluate(rule.expression(), context))))
                 .map(FeelRule::code)
                 .toList();
+
+        ruleSetEvent.complete(ENGINE, rules.size(), failures.size());
+        return failures;
     }
 
-    private boolean evaluate(String expression, Map<String, Object> context) {
+    /**
+     * Validate several DTOs against the same FEEL rules, reusing each rule's compiled expression.
+     * 
+     * @param rules       List of rules with combined FEEL expressions
+     * @param dtos        DTO objects to validate
+     * @param contextName Key name for FEEL context (e.g., "transaction")
+     * @return Failed rule codes per DTO, in order; a failing DTO doesn't affect the others
+     */
+    public List<ItemResult<List<String>>> validateAll(List<FeelRule> rules, List<?> dtos, String contextName) {
+        Objects.requireNonNull(contextName, "contextName must not be null");
+
+        var batchEvent = new RuleBatchEvaluationEvent();
+        batchEvent.begin();
+
+        List<CompiledExpression> compiled = rules.stream()
+                .map(rule -> compileCached(rule.expression(), contextName))
+                .toList();
+
+        int failedItems = 0;
+        List<ItemResult<List<String>>> results = new ArrayList<>(dtos.size());
+        for (Object dto : dtos) {
+            try {
+                Objects.requireNonNull(dto, "dto must not be null");
+
+                Map<String, Object> context = new HashMap<>();
+                context.put(contextName, bind(dto));
+
+                var ruleSetEvent = new RuleSetEvaluationEvent();
+                ruleSetEvent.begin();
+
+                List<String> failures = new ArrayList<>();
+                for (int i = 0; i < rules.size(); i++) {
+                    CompiledExpression expression = compiled.get(i);
+                    if (!evaluate(rules.get(i).code(), () -> Boolean.TRUE.equals(feel.evaluate(expression, context)))) {
+                        failures.add(rules.get(i).code());
+                    }
+                }
+
+                ruleSetEvent.complete(ENGINE, rules.size(), failures.size());
+                results.add(ItemResult.success(List.copyOf(failures)));
+            } catch (RuntimeException e) {
+                failedItems++;
+                results.add(ItemResult.failure(e));
+            }
+        }
+
+        batchEvent.complete(ENGINE, rules.size(), dtos.size(), failedItems);
+        return results;
+    }
+
+    /**
+     * Validate a DTO against a tenant's compiled rule set.
+     * 
+     * @param ruleSet Compiled rule set from the tenant registry
+     * @param dto     Your DTO object (e.g., Transaction)
+     * @return List of failed rule codes (empty = all passed)
+     */
+    public List<String> validate(TenantRuleSet ruleSet, Object dto) {
+        Objects.requireNonNull(dto, "dto must not be null");
+
+        Map<String, Object> context = new HashMap<>();
+        context.put(ruleSet.contextName(), bind(dto));
+
+        var ruleSetEvent = new RuleSetEvaluationEvent();
+        ruleSetEvent.begin();
+
+        List<String> failures = ruleSet.rules().stream()
+                .filter(rule -> !evaluate(rule.code(), () -> allClausesTrue(rule, context)))
+                .map(CompiledRule::code)
+                .toList();
+
+        ruleSetEvent.complete(ENGINE, ruleSet.rules().size(), failures.size());
+        return failures;
+    }
+
+    /**
+     * Compile a FEEL expression for repeated evaluation.
+     * 
+     * @param expression  FEEL expression
+     * @param contextName Key name the DTO will be bound to at evaluation time
+     */
+    public CompiledExpression compile(String expression, String contextName) {
+        CompilerContext ctx = feel.newCompilerContext();
+        ctx.addInputVariableType(contextName, BuiltInType.UNKNOWN);
+        return feel.compile(expression, ctx);
+    }
+
+    /**
+     * Compiling costs about as much as an uncompiled evaluation, so small batches
+     * only benefit if the compiled form outlives the batch.
+     */
+    private CompiledExpression compileCached(String expression, String contextName) {
+        String key = contextName + '\u0000' + expression;
+        synchronized (compiledCache) {
+            CompiledExpression cached = compiledCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        // Compile outside the lock so batches for other rules aren't blocked
+        CompiledExpression compiled = compile(expression, contextName);
+        synchronized (compiledCache) {
+            CompiledExpression raced = compiledCache.putIfAbsent(key, compiled);
+            return raced != null ? raced : compiled;
+        }
+    }
+
+    /**
+     * FlatRecords are exposed to FEEL as a map view over their slots.
+     */
+    private static Object bind(Object dto) {
+        return dto instanceof FlatRecord record ? record.asMap() : dto;
+    }
+
+    /**
+     * A rule passes when every clause is true; like an empty FEEL expression, a rule
+     * without clauses fails.
+     */
+    private boolean allClausesTrue(CompiledRule rule, Map<String, Object> context) {
+        if (rule.clauses().isEmpty()) {
+            return false;
+        }
+        for (FeelNode clause : rule.clauses()) {
+            if (!Boolean.TRUE.equals(feel.evaluate(clause.compiled(), context))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean evaluate(String code, BooleanSupplier evaluation) {
+        var event = new RuleEvaluationEvent();
+        event.begin();
+
+        EvaluationOutcome outcome;
         try {
-            return Boolean.TRUE.equals(feel.evaluate(expression, context));
+            outcome = evaluation.getAsBoolean()
+                    ? EvaluationOutcome.PASSED
+                    : EvaluationOutcome.FAILED;
         } catch (Exception e) {
             System.err.println("FEEL error: " + e.getMessage());
-            return false;
+            outcome = EvaluationOutcome.ERROR;
         }
+
+        event.complete(code, ENGINE, outcome);
+        return outcome == EvaluationOutcome.PASSED;
     }
 }
@@ -1,7 +1,9 @@
 package com.example.jexpression.droolsfeel.converter;
 
+import com.example.jexpression.droolsfeel.FeelRuleEngine;
 import com.example.jexpression.droolsfeel.model.FeelRule;
 import com.example.jexpression.droolsfeel.model.ValidationRule;
+import com.example.jexpression.monitoring.RuleSetCompileEvent;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
@@ -17,10 +19,16 @@ public class RuleConverter {
      * Convert raw rules to FEEL rules.
      */
     public List<FeelRule> convert(List<ValidationRule> rawRules) {
-        return rawRules.stream()
+        var event = new RuleSetCompileEvent();
+        event.begin();
+
+        List<FeelRule> feelRules = rawRules.stream()
                 .filter(ValidationRule::isEnabled)
                 .map(this::toFeelRule)
                 .toList();
+
+        event.complete(FeelRuleEngine.ENGINE, rawRules.size(), feelRules.size());
+        return feelRules;
     }
 
     private FeelRule toFeelRule(ValidationRule raw) {
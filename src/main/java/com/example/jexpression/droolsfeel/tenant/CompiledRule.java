@@ -0,0 +1,13 @@
+package com.example.jexpression.droolsfeel.tenant;
+
+import java.util.List;
+
+/**
+ * Rule compiled into shared FEEL nodes, one per validation; passes when every node is true.
+ */
+public record CompiledRule(
+        String code,
+        String name,
+        List<FeelNode> clauses
+) {
+}
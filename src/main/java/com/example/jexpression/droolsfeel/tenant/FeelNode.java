@@ -0,0 +1,45 @@
+package com.example.jexpression.droolsfeel.tenant;
+
+import org.kie.dmn.feel.lang.CompiledExpression;
+
+/**
+ * Compiled FEEL expression shared by every tenant rule set that references it.
+ */
+public final class FeelNode {
+
+    /**
+     * Rough heap cost of a compiled FEEL AST per source character.
+     */
+    static final long BYTES_PER_EXPRESSION_CHAR = 64;
+
+    private final String expression;
+    private final CompiledExpression compiled;
+    private final long estimatedBytes;
+    private int refs; // guarded by the pool's map entry
+
+    FeelNode(String expression, CompiledExpression compiled) {
+        this.expression = expression;
+        this.compiled = compiled;
+        this.estimatedBytes = expression.length() * BYTES_PER_EXPRESSION_CHAR;
+    }
+
+    public String expression() {
+        return expression;
+    }
+
+    public CompiledExpression compiled() {
+        return compiled;
+    }
+
+    public long estimatedBytes() {
+        return estimatedBytes;
+    }
+
+    int retain() {
+        return ++refs;
+    }
+
+    int release() {
+        return --refs;
+    }
+}
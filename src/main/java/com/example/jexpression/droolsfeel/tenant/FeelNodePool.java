@@ -0,0 +1,60 @@
+package com.example.jexpression.droolsfeel.tenant;
+
+import org.kie.dmn.feel.lang.CompiledExpression;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Hash-consing pool of compiled FEEL expressions.
+ * 
+ * Equal expressions are shared and reference counted; a node is dropped when
+ * the last rule set using it is released. Two threads racing on a new
+ * expression may both compile it, but only one node is kept.
+ */
+final class FeelNodePool {
+
+    private final Map<String, FeelNode> nodes = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    FeelNode acquire(String expression, Function<String, CompiledExpression> compiler) {
+        FeelNode existing = retainExisting(expression);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Compile outside the map so other keys in the same bin aren't blocked
+        FeelNode compiled = new FeelNode(expression, compiler.apply(expression));
+        return nodes.compute(expression, (expr, node) -> {
+            if (node == null) {
+                node = compiled;
+                totalBytes.addAndGet(node.estimatedBytes());
+            }
+            node.retain();
+            return node;
+        });
+    }
+
+    private FeelNode retainExisting(String expression) {
+        return nodes.computeIfPresent(expression, (expr, node) -> {
+            node.retain();
+            return node;
+        });
+    }
+
+    void release(FeelNode node) {
+        nodes.computeIfPresent(node.expression(), (expr, existing) -> {
+            if (existing.release() > 0) {
+                return existing;
+            }
+            totalBytes.addAndGet(-existing.estimatedBytes());
+            return null;
+        });
+    }
+
+    long totalBytes() {
+        return totalBytes.get();
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.jexpression.droolsfeel.tenant;
+
+import com.example.jexpression.droolsfeel.model.ValidationRule;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Tenant-specific changes on top of the base rule set.
+ * 
+ * @param upserts      Rules added or replacing a base rule with the same code
+ * @param removedCodes Base rule codes the tenant doesn't use
+ */
+public record TenantOverlay(
+        List<ValidationRule> upserts,
+        Set<String> removedCodes
+) {
+    public TenantOverlay {
+        upserts = upserts == null ? List.of() : List.copyOf(upserts);
+        removedCodes = removedCodes == null ? Set.of() : Set.copyOf(removedCodes);
+    }
+
+    public static TenantOverlay empty() {
+        return new TenantOverlay(List.of(), Set.of());
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.jexpression.droolsfeel.tenant;
+
+import com.example.jexpression.droolsfeel.FeelRuleEngine;
+import com.example.jexpression.droolsfeel.converter.FeelExpressionBuilder;
+import com.example.jexpression.droolsfeel.model.Validation;
+import com.example.jexpression.droolsfeel.model.ValidationRule;
+import com.example.jexpression.monitoring.RuleSetCompileEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tenant-aware registry of compiled FEEL rule sets.
+ * 
+ * Each tenant sees the base rules plus its own {@link TenantOverlay}. Compiled
+ * expressions are shared across tenants through a hash-consing pool, rule sets
+ * are compiled lazily, and the least recently used tenants are evicted when the
+ * estimated footprint exceeds the memory budget.
+ */
+@Service
+public class TenantRuleRegistry {
+
+    /**
+     * Rough heap cost of a compiled rule besides its FEEL nodes.
+     */
+    static final long RULE_OVERHEAD_BYTES = 128;
+
+    private final FeelRuleEngine engine;
+    private final String contextName;
+    private final long memoryBudgetBytes;
+    private final FeelNodePool pool = new FeelNodePool();
+    private final Map<String, TenantOverlay> overlays = new ConcurrentHashMap<>();
+    private final LinkedHashMap<String, TenantRuleSet> loaded = new LinkedHashMap<>(16, 0.75f, true); // guarded by this
+    private volatile List<ValidationRule> baseRules = List.of();
+    private long loadedOverheadBytes; // guarded by this
+    private long generation; // guarded by this
+
+    public TenantRuleRegistry(FeelRuleEngine engine,
+                              @Value("${jexpression.tenant.context-name:transaction}") String contextName,
+                              @Value("${jexpression.tenant.memory-budget-bytes:67108864}") long memoryBudgetBytes) {
+        this.engine = engine;
+        this.contextName = contextName;
+        this.memoryBudgetBytes = memoryBudgetBytes;
+    }
+
+    /**
+     * Replace the base rules shared by all tenants; every compiled set is dropped.
+     */
+    public synchronized void setBaseRules(List<ValidationRule> rules) {
+        baseRules = List.copyOf(rules);
+        generation++;
+        new ArrayList<>(loaded.keySet()).forEach(this::unload);
+    }
+
+    /**
+     * Set a tenant's overlay; its compiled set is rebuilt on next use.
+     */
+    public synchronized void putOverlay(String tenantId, TenantOverlay overlay) {
+        overlays.put(tenantId, Objects.requireNonNull(overlay, "overlay must not be null"));
+        generation++;
+        unload(tenantId);
+    }
+
+    public synchronized void removeTenant(String tenantId) {
+        overlays.remove(tenantId);
+        generation++;
+        unload(tenantId);
+    }
+
+    /**
+     * Get a tenant's compiled rule set, compiling it if it isn't loaded.
+     */
+    public TenantRuleSet ruleSet(String tenantId) {
+        Objects.requireNonNull(tenantId, "tenantId must not be null");
+        while (true) {
+            long startGeneration;
+            synchronized (this) {
+                TenantRuleSet cached = loaded.get(tenantId);
+                if (cached != null) {
+                    return cached;
+                }
+                startGeneration = generation;
+            }
+
+            // Compile outside the lock so other tenants aren't blocked
+            TenantRuleSet compiled = compile(tenantId);
+
+            synchronized (this) {
+                TenantRuleSet raced = loaded.get(tenantId);
+                if (raced == null && startGeneration == generation) {
+                    loaded.put(tenantId, compiled);
+                    loadedOverheadBytes += overheadBytes(compiled);
+                    evictToBudget(tenantId);
+                    return compiled;
+                }
+                release(compiled);
+                if (raced != null) {
+                    return raced;
+                }
+                // Rules changed while compiling, start over
+            }
+        }
+    }
+
+    /**
+     * Estimated memory charged to a tenant, 0 when its set isn't loaded.
+     */
+    public synchronized long memoryUsage(String tenantId) {
+        TenantRuleSet ruleSet = loaded.get(tenantId);
+        return ruleSet == null ? 0 : ruleSet.estimatedBytes();
+    }
+
+    /**
+     * Estimated memory of all loaded sets, counting shared nodes once.
+     */
+    public synchronized long totalMemoryUsage() {
+        return pool.totalBytes() + loadedOverheadBytes;
+    }
+
+    public synchronized Set<String> loadedTenants() {
+        return Set.copyOf(loaded.keySet());
+    }
+
+    private TenantRuleSet compile(String tenantId) {
+        var event = new RuleSetCompileEvent();
+        event.begin();
+
+        List<ValidationRule> rules = effectiveRules(tenantId);
+        List<CompiledRule> compiledRules = new ArrayList<>(rules.size());
+        List<FeelNode> acquired = new ArrayList<>();
+        try {
+            for (ValidationRule rule : rules.stream().filter(ValidationRule::isEnabled).toList()) {
+                List<FeelNode> clauses = new ArrayList<>(rule.validations().size());
+                for (Validation validation : rule.validations()) {
+                    FeelNode node = pool.acquire(FeelExpressionBuilder.toFeel(validation),
+                            expression -> engine.compile(expression, contextName));
+                    acquired.add(node);
+                    clauses.add(node);
+                }
+                compiledRules.add(new CompiledRule(rule.code(), rule.name(), List.copyOf(clauses)));
+            }
+        } catch (RuntimeException e) {
+            acquired.forEach(pool::release);
+            throw e;
+        }
+
+        long estimatedBytes = compiledRules.size() * RULE_OVERHEAD_BYTES
+                + acquired.stream().mapToLong(FeelNode::estimatedBytes).sum();
+
+        event.complete(FeelRuleEngine.ENGINE, rules.size(), compiledRules.size());
+        return new TenantRuleSet(tenantId, contextName, List.copyOf(compiledRules), estimatedBytes);
+    }
+
+    private List<ValidationRule> effectiveRules(String tenantId) {
+        TenantOverlay overlay = overlays.getOrDefault(tenantId, TenantOverlay.empty());
+
+        Map<String, ValidationRule> byCode = new LinkedHashMap<>();
+        baseRules.forEach(rule -> byCode.put(rule.code(), rule));
+        overlay.removedCodes().forEach(byCode::remove);
+        overlay.upserts().forEach(rule -> byCode.put(rule.code(), rule));
+        return List.copyOf(byCode.values());
+    }
+
+    private void evictToBudget(String keepTenantId) {
+        Iterator<Map.Entry<String, TenantRuleSet>> eldest = loaded.entrySet().iterator();
+        while (totalMemoryUsage() > memoryBudgetBytes && eldest.hasNext()) {
+            Map.Entry<String, TenantRuleSet> entry = eldest.next();
+            if (entry.getKey().equals(keepTenantId)) {
+                continue;
+            }
+            eldest.remove();
+            loadedOverheadBytes -= overheadBytes(entry.getValue());
+            release(entry.getValue());
+        }
+    }
+
+    private void unload(String tenantId) {
+        TenantRuleSet ruleSet = loaded.remove(tenantId);
+        if (ruleSet != null) {
+            loadedOverheadBytes -= overheadBytes(ruleSet);
+            release(ruleSet);
+        }
+    }
+
+    private void release(TenantRuleSet ruleSet) {
+        ruleSet.rules().stream()
+                .flatMap(rule -> rule.clauses().stream())
+                .forEach(pool::release);
+    }
+
+    private static long overheadBytes(TenantRuleSet ruleSet) {
+        return ruleSet.rules().size() * RULE_OVERHEAD_BYTES;
+    }
+}
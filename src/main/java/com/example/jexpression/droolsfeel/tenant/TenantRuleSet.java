@@ -0,0 +1,16 @@
+package com.example.jexpression.droolsfeel.tenant;
+
+import java.util.List;
+
+/**
+ * Compiled rule set of one tenant.
+ * 
+ * @param estimatedBytes Memory charged to the tenant, counting shared nodes in full
+ */
+public record TenantRuleSet(
+        String tenantId,
+        String contextName,
+        List<CompiledRule> rules,
+        long estimatedBytes
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.jexpression.monitoring;
+
+/**
+ * Outcome recorded on rule evaluation events.
+ */
+public enum EvaluationOutcome {
+    /** FEEL rule expression evaluated to true. */
+    PASSED,
+    /** FEEL rule expression evaluated to false or null. */
+    FAILED,
+    /** JSON Logic rule matched and its action was returned. */
+    TRIGGERED,
+    /** JSON Logic rule passed the index filter but the logic didn't match. */
+    NO_MATCH,
+    /** JSON Logic rule was skipped by the index filter. */
+    SKIPPED,
+    /** Evaluation threw. */
+    ERROR
+}
@@ -0,0 +1,51 @@
+package com.example.jexpression.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a batch evaluation of several DTOs, e.g. a coalesced async batch.
+ *
+ * Override the threshold per recording, e.g.
+ * {@code -XX:StartFlightRecording:com.example.jexpression.RuleBatchEvaluation#threshold=0ms}.
+ */
+@Name("com.example.jexpression.RuleBatchEvaluation")
+@Label("Rule Batch Evaluation")
+@Category({"JExpression", "Rules"})
+@Description("Evaluation of one or more rules against a batch of DTOs that took longer than the threshold")
+@StackTrace(false)
+@Threshold("1 ms")
+public class RuleBatchEvaluationEvent extends Event {
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Rule Count")
+    public int ruleCount;
+
+    @Label("Item Count")
+    public int itemCount;
+
+    @Label("Failed Items")
+    @Description("Items whose evaluation threw")
+    public int failedItemCount;
+
+    /**
+     * End the event and commit it if it passes the recording's threshold.
+     */
+    public void complete(String engine, int ruleCount, int itemCount, int failedItemCount) {
+        end();
+        if (shouldCommit()) {
+            this.engine = engine;
+            this.ruleCount = ruleCount;
+            this.itemCount = itemCount;
+            this.failedItemCount = failedItemCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.jexpression.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a single slow rule evaluation.
+ *
+ * Only evaluations longer than the threshold are recorded. Override it per recording, e.g.
+ * {@code -XX:StartFlightRecording:com.example.jexpression.RuleEvaluation#threshold=100us}.
+ */
+@Name("com.example.jexpression.RuleEvaluation")
+@Label("Rule Evaluation")
+@Category({"JExpression", "Rules"})
+@Description("Evaluation of a single rule that took longer than the threshold")
+@StackTrace(false)
+@Threshold("1 ms")
+public class RuleEvaluationEvent extends Event {
+
+    @Label("Rule ID")
+    public String ruleId;
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Outcome")
+    public String outcome;
+
+    /**
+     * End the event and commit it if it passes the recording's threshold.
+     */
+    public void complete(String ruleId, String engine, EvaluationOutcome outcome) {
+        end();
+        if (shouldCommit()) {
+            this.ruleId = ruleId;
+            this.engine = engine;
+            this.outcome = outcome.name();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.jexpression.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for converting raw rules into an executable rule set.
+ */
+@Name("com.example.jexpression.RuleSetCompile")
+@Label("Rule Set Compile")
+@Category({"JExpression", "Rules"})
+@Description("Conversion of raw rules into an executable rule set")
+@StackTrace(false)
+@Threshold("0 ms")
+public class RuleSetCompileEvent extends Event {
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Input Rules")
+    public int inputCount;
+
+    @Label("Compiled Rules")
+    public int compiledCount;
+
+    /**
+     * End the event and commit it if it passes the recording's threshold.
+     */
+    public void complete(String engine, int inputCount, int compiledCount) {
+        end();
+        if (shouldCommit()) {
+            this.engine = engine;
+            this.inputCount = inputCount;
+            this.compiledCount = compiledCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.jexpression.monitoring;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * JFR event for a slow evaluation of a rule set against one DTO.
+ *
+ * Only evaluations longer than the threshold are recorded, so default recordings
+ * don't pay for an event per call. Override it per recording, e.g.
+ * {@code -XX:StartFlightRecording:com.example.jexpression.RuleSetEvaluation#threshold=0ms}.
+ */
+@Name("com.example.jexpression.RuleSetEvaluation")
+@Label("Rule Set Evaluation")
+@Category({"JExpression", "Rules"})
+@Description("Evaluation of a rule set against one DTO that took longer than the threshold")
+@StackTrace(false)
+@Threshold("5 ms")
+public class RuleSetEvaluationEvent extends Event {
+
+    @Label("Engine")
+    public String engine;
+
+    @Label("Rule Count")
+    public int ruleCount;
+
+    @Label("Failed Count")
+    public int failedCount;
+
+    /**
+     * End the event and commit it if it passes the recording's threshold.
+     */
+    public void complete(String engine, int ruleCount, int failedCount) {
+        end();
+        if (shouldCommit()) {
+            this.engine = engine;
+            this.ruleCount = ruleCount;
+            this.failedCount = failedCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jexpression.service;
+
+/**
+ * Result of one item in a batch evaluation: either a value or the exception that item raised.
+ */
+public record ItemResult<T>(
+        T value,
+        Exception error
+) {
+    public static <T> ItemResult<T> success(T value) {
+        return new ItemResult<>(value, null);
+    }
+
+    public static <T> ItemResult<T> failure(Exception error) {
+        return new ItemResult<>(null, error);
+    }
+
+    public boolean isSuccess() {
+        return error == null;
+    }
+}
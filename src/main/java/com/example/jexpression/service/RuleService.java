@@ -1,7 +1,11 @@
 package com.example.jexpression.service;
 
+import com.example.jexpression.binding.FlatRecord;
 import com.example.jexpression.model.Action;
 import com.example.jexpression.model.Rule;
+import com.example.jexpression.monitoring.EvaluationOutcome;
+import com.example.jexpression.monitoring.RuleBatchEvaluationEvent;
+import com.example.jexpression.monitoring.RuleEvaluationEvent;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.jayway.jsonpath.JsonPath;
@@ -10,9 +14,11 @@ import io.github.jamsesso.jsonlogic.JsonLogic;
 import io.github.jamsesso.jsonlogic.JsonLogicException;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * Rule Engine - returns Action DTO when rule triggers.
@@ -20,6 +26,8 @@ import java.util.Optional;
 @Service
 public class RuleService {
 
+    public static final String ENGINE = "JSON_LOGIC";
+
     private final JsonLogic jsonLogic = new JsonLogic();
     private final ObjectMapper objectMapper;
 
@@ -30,23 +38,74 @@ public class RuleService {
     /**
      * Evaluate a rule against data.
      * 
+     * Data bound as a {@link FlatRecord} is read directly, without JSON or Map conversion.
+     * 
      * @return Optional.empty() = SKIP or logic didn't match
      *         Optional.of(Action) = Action to execute
+     * @throws IllegalArgumentException if a FlatRecord's schema doesn't cover the rule's fields
      */
     public Optional<Action> evaluate(Rule rule, Object data) throws JsonProcessingException {
-        String dataJson = objectMapper.writeValueAsString(data);
+        return evaluate(rule, data, () -> toLogicJson(rule.getLogic()));
+    }
 
-        // STEP 1: Check filter
-        if (!checkFilter(rule.getIndex(), dataJson)) {
-            return Optional.empty(); // SKIP - rule doesn't apply
-        }
+    /**
+     * Evaluate a rule against several data items, serializing the rule logic once.
+     * 
+     * @return One result per data item, in order; a failing item doesn't affect the others
+     */
+    public List<ItemResult<Optional<Action>>> evaluateAll(Rule rule, List<?> data) {
+        String logicJson = toLogicJson(rule.getLogic());
+
+        var batchEvent = new RuleBatchEvaluationEvent();
+        batchEvent.begin();
 
-        // STEP 2: Evaluate logic
-        if (evaluateLogic(rule.getLogic(), data)) {
-            return Optional.ofNullable(rule.getAction()); // Return Action
+        int failedItems = 0;
+        List<ItemResult<Optional<Action>>> results = new ArrayList<>(data.size());
+        for (Object item : data) {
+            try {
+                results.add(ItemResult.success(evaluate(rule, item, () -> logicJson)));
+            } catch (Exception e) {
+                failedItems++;
+                results.add(ItemResult.failure(e));
+            }
         }
 
-        return Optional.empty(); // Logic didn't match
+        batchEvent.complete(ENGINE, 1, data.size(), failedItems);
+        return results;
+    }
+
+    private Optional<Action> evaluate(Rule rule, Object data, Supplier<String> logicJson)
+            throws JsonProcessingException {
+        var event = new RuleEvaluationEvent();
+        event.begin();
+
+        EvaluationOutcome outcome = EvaluationOutcome.ERROR;
+        try {
+            if (data instanceof FlatRecord record && !record.schema().covers(rule)) {
+                throw new IllegalArgumentException(
+                        "Rule " + rule.getRuleId() + " reads fields outside the record schema");
+            }
+
+            // STEP 1: Check filter
+            boolean applies = data instanceof FlatRecord record
+                    ? checkFilter(rule.getIndex(), record)
+                    : checkFilter(rule.getIndex(), objectMapper.writeValueAsString(data));
+            if (!applies) {
+                outcome = EvaluationOutcome.SKIPPED;
+                return Optional.empty(); // SKIP - rule doesn't apply
+            }
+
+            // STEP 2: Evaluate logic
+            if (evaluateLogic(rule.getLogic(), logicJson, data)) {
+                outcome = EvaluationOutcome.TRIGGERED;
+                return Optional.ofNullable(rule.getAction()); // Return Action
+            }
+
+            outcome = EvaluationOutcome.NO_MATCH;
+            return Optional.empty(); // Logic didn't match
+        } finally {
+            event.complete(rule.getRuleId(), ENGINE, outcome);
+        }
     }
 
     private boolean checkFilter(Map<String, List<String>> filter, String dataJson) {
@@ -70,21 +129,56 @@ public class RuleService {
         return true;
     }
 
-    private boolean evaluateLogic(Map<String, Object> logic, Object data) {
+    private boolean checkFilter(Map<String, List<String>> filter, FlatRecord record) {
+        if (filter == null || filter.isEmpty()) {
+            return true;
+        }
+
+        for (Map.Entry<String, List<String>> entry : filter.entrySet()) {
+            // Compare the JSON text, as JsonPath renders it on the serialized path
+            String value = record.getText(entry.getKey());
+            if (value == null || !entry.getValue().contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean evaluateLogic(Map<String, Object> logic, Supplier<String> logicJson, Object data) {
         if (logic == null) {
             return true;
         }
 
+        String json = logicJson.get();
+        if (json == null) {
+            return false; // Logic couldn't be serialized
+        }
+
         try {
             @SuppressWarnings("unchecked")
-            Map<String, Object> dataMap = objectMapper.convertValue(data, Map.class);
-            String logicJson = objectMapper.writeValueAsString(logic);
+            Map<String, Object> dataMap = data instanceof FlatRecord record
+                    ? record.asMap()
+                    : objectMapper.convertValue(data, Map.class);
 
-            Object result = jsonLogic.apply(logicJson, dataMap);
+            Object result = jsonLogic.apply(json, dataMap);
             return Boolean.TRUE.equals(result);
 
-        } catch (JsonLogicException | JsonProcessingException e) {
+        } catch (JsonLogicException e) {
             return false;
         }
     }
+
+    /**
+     * @return JsonLogic expression as JSON, or null if absent or not serializable
+     */
+    private String toLogicJson(Map<String, Object> logic) {
+        if (logic == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(logic);
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,115 @@
+package com.example.jexpression;
+
+import com.example.jexpression.async.AsyncRuleEvaluator;
+import com.example.jexpression.droolsfeel.FeelRuleEngine;
+import com.example.jexpression.model.Action;
+import com.example.jexpression.model.Amount;
+import com.example.jexpression.model.Payment;
+import com.example.jexpression.model.Rule;
+import com.example.jexpression.model.Transaction;
+import com.example.jexpression.service.RuleService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncRuleEvaluatorTest {
+
+    private AsyncRuleEvaluator evaluator;
+
+    @BeforeEach
+    void setup() {
+        evaluator = new AsyncRuleEvaluator(new RuleService(new ObjectMapper()), new FeelRuleEngine(), 16, 500, 2);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        evaluator.close();
+    }
+
+    @Test
+    void testEvaluate_ConcurrentRequests_EachGetsOwnResult() throws Exception {
+        Rule rule = createRule();
+
+        List<CompletableFuture<Optional<Action>>> futures = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            futures.add(evaluator.evaluate(rule, createTransaction(i % 2 == 0 ? 50.0 : 150.0)));
+        }
+
+        for (int i = 0; i < futures.size(); i++) {
+            Optional<Action> result = futures.get(i).get(5, TimeUnit.SECONDS);
+            assertEquals(i % 2 == 0, result.isPresent());
+        }
+    }
+
+    @Test
+    void testEvaluate_PoisonedRequest_FailsOnlyItsOwnFuture() throws Exception {
+        // Long delay so every request lands in the same batch
+        AsyncRuleEvaluator batching = new AsyncRuleEvaluator(
+                new RuleService(new ObjectMapper()), new FeelRuleEngine(), 64, 200_000, 1);
+        try {
+            Rule rule = createRule();
+            List<CompletableFuture<Optional<Action>>> futures = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                futures.add(batching.evaluate(rule, createTransaction(50.0)));
+            }
+            CompletableFuture<Optional<Action>> poisoned = batching.evaluate(rule, new PoisonedTransaction());
+
+            ExecutionException error = assertThrows(ExecutionException.class, () -> poisoned.get(5, TimeUnit.SECONDS));
+            assertInstanceOf(JsonProcessingException.class, error.getCause());
+            for (CompletableFuture<Optional<Action>> future : futures) {
+                assertTrue(future.get(5, TimeUnit.SECONDS).isPresent());
+            }
+        } finally {
+            batching.close();
+        }
+    }
+
+    @Test
+    void testEvaluate_AfterClose_FailsFuture() throws Exception {
+        evaluator.close();
+
+        CompletableFuture<Optional<Action>> future = evaluator.evaluate(createRule(), createTransaction(50.0));
+
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    private Rule createRule() {
+        Rule rule = new Rule();
+        rule.setRuleId("TEST_RULE");
+        rule.setLogic(Map.of("<", List.of(Map.of("var", "payment.amount.value"), 100)));
+
+        Action action = new Action();
+        action.setStatus("REJECT");
+        rule.setAction(action);
+        return rule;
+    }
+
+    static class PoisonedTransaction {
+        public String getCountry() {
+            throw new IllegalStateException("boom");
+        }
+    }
+
+    private Transaction createTransaction(double amount) {
+        Amount amt = new Amount();
+        amt.setValue(amount);
+        Payment payment = new Payment();
+        payment.setAmount(amt);
+
+        Transaction tx = new Transaction();
+        tx.setPayment(payment);
+        return tx;
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.jexpression;
+
+import com.example.jexpression.binding.FlatRecord;
+import com.example.jexpression.binding.FlatRecordReader;
+import com.example.jexpression.binding.RecordSchema;
+import com.example.jexpression.droolsfeel.FeelRuleEngine;
+import com.example.jexpression.droolsfeel.converter.RuleConverter;
+import com.example.jexpression.droolsfeel.model.FeelRule;
+import com.example.jexpression.droolsfeel.model.Validation;
+import com.example.jexpression.droolsfeel.model.ValidationRule;
+import com.example.jexpression.model.Transaction;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FeelFlatRecordTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final FeelRuleEngine engine = new FeelRuleEngine();
+    private List<ValidationRule> rawRules;
+    private List<FeelRule> rules;
+
+    @BeforeEach
+    void setup() {
+        rawRules = List.of(
+                rule("MIN_AMOUNT", new Validation("transaction.amount", "number", "GreaterOrEqual", null, List.of("30"))),
+                rule("EXECUTION_DATE", new Validation("transaction.requestedExecutionDate", "date", "Between", null,
+                        List.of("2025-11-01", "2025-12-15"))),
+                rule("COUNTRY", new Validation("transaction.country", "string", "In", null, List.of("SA", "AE"))),
+                rule("MESSAGE_TYPE", new Validation("transaction.messageType", "string", "Equals", null,
+                        List.of("pain.001"))));
+        rules = new RuleConverter().convert(rawRules);
+    }
+
+    @Test
+    void testValidate_FlatRecord_MatchesTransactionResult() throws Exception {
+        RecordSchema schema = RecordSchema.builder().validationRules(rawRules, "transaction").build();
+        FlatRecordReader reader = new FlatRecordReader(schema, objectMapper.getFactory());
+
+        List<Transaction> transactions = List.of(
+                transaction(50.0, "2025-11-15", "SA", "pain.001"),
+                transaction(10.0, "2026-01-01", "GB", "pacs.008"),
+                transaction(30.0, "2025-12-15", "AE", "pain.001"));
+
+        for (Transaction tx : transactions) {
+            FlatRecord record = reader.read(objectMapper.writeValueAsBytes(tx));
+
+            List<String> expected = engine.validate(rules, tx, "transaction");
+            assertEquals(expected, engine.validate(rules, record, "transaction"));
+        }
+        assertEquals(List.of("MIN_AMOUNT", "EXECUTION_DATE", "COUNTRY", "MESSAGE_TYPE"),
+                engine.validate(rules, reader.read(objectMapper.writeValueAsBytes(transactions.get(1))), "transaction"));
+    }
+
+    @Test
+    void testBuild_FieldOutsideContext_Rejected() {
+        List<ValidationRule> foreign = List.of(
+                rule("PAYMENT_AMOUNT", new Validation("payment.amount", "number", "GreaterOrEqual", null, List.of("30"))));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> RecordSchema.builder().validationRules(foreign, "transaction"));
+    }
+
+    private Transaction transaction(double amount, String executionDate, String country, String messageType) {
+        Transaction tx = new Transaction();
+        tx.setAmount(amount);
+        tx.setRequestedExecutionDate(executionDate);
+        tx.setCountry(country);
+        tx.setMessageType(messageType);
+        return tx;
+    }
+
+    private ValidationRule rule(String code, Validation validation) {
+        return new ValidationRule(code, code, "Enabled", List.of(validation));
+    }
+}
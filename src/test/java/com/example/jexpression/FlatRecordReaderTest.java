@@ -0,0 +1,164 @@
+package com.example.jexpression;
+
+import com.example.jexpression.binding.FlatRecord;
+import com.example.jexpression.binding.FlatRecordReader;
+import com.example.jexpression.binding.RecordSchema;
+import com.example.jexpression.model.Action;
+import com.example.jexpression.model.Rule;
+import com.example.jexpression.service.RuleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FlatRecordReaderTest {
+
+    private static final String JSON = """
+            {
+              "country": "SA",
+              "channel": "SWIFT",
+              "beneficiaryIban": "SA1234567890",
+              "notes": {"free": ["text", {"nested": true}]},
+              "payment": {"amount": {"value": 50.0, "currency": "SAR"}, "reference": "ignored"},
+              "requestedExecutionDate": "2025-11-15"
+            }
+            """;
+
+    private ObjectMapper objectMapper;
+    private RuleService ruleService;
+    private Rule rule;
+
+    @BeforeEach
+    void setup() {
+        objectMapper = new ObjectMapper();
+        ruleService = new RuleService(objectMapper);
+
+        rule = new Rule();
+        rule.setRuleId("TEST_RULE");
+        rule.setIndex(Map.of("country", List.of("SA"), "channel", List.of("SWIFT")));
+        rule.setLogic(Map.of("and", List.of(
+                Map.of("<", List.of(Map.of("var", "payment.amount.value"), 100)),
+                Map.of("==", List.of(Map.of("var", "payment.amount.currency"), "SAR")))));
+        Action action = new Action();
+        action.setStatus("REJECT");
+        rule.setAction(action);
+    }
+
+    @Test
+    void testRead_BindsOnlyReferencedFields() throws Exception {
+        RecordSchema schema = RecordSchema.builder()
+                .rules(List.of(rule))
+                .field("requestedExecutionDate", RecordSchema.FieldType.DATE)
+                .build();
+
+        FlatRecord record = read(schema);
+
+        assertEquals(50.0, record.getDouble(schema.slot("payment.amount.value")));
+        assertEquals("SAR", record.get("payment.amount.currency"));
+        assertEquals(LocalDate.of(2025, 11, 15), record.getDate(schema.slot("requestedExecutionDate")));
+        assertEquals(-1, schema.slot("beneficiaryIban"));
+        assertEquals(-1, schema.slot("payment.reference"));
+        assertFalse(record.asMap().containsKey("notes"));
+    }
+
+    @Test
+    void testEvaluate_FlatRecord_MatchesDtoResult() throws Exception {
+        RecordSchema schema = RecordSchema.builder().rules(List.of(rule)).build();
+
+        Optional<Action> flat = ruleService.evaluate(rule, read(schema));
+        Optional<Action> dto = ruleService.evaluate(rule, objectMapper.readValue(JSON, Map.class));
+
+        assertTrue(flat.isPresent());
+        assertEquals(dto.map(Action::getStatus), flat.map(Action::getStatus));
+    }
+
+    @Test
+    void testEvaluate_FlatRecordFilterMismatch_ReturnsEmpty() throws Exception {
+        RecordSchema schema = RecordSchema.builder().rules(List.of(rule)).build();
+        FlatRecord record = new FlatRecordReader(schema, objectMapper.getFactory())
+                .read(JSON.replace("\"SA\"", "\"AE\"").getBytes(StandardCharsets.UTF_8));
+
+        assertTrue(ruleService.evaluate(rule, record).isEmpty());
+    }
+
+    @Test
+    void testEvaluate_NumericIndexKey_MatchesMapResult() throws Exception {
+        Rule numeric = new Rule();
+        numeric.setRuleId("PRIORITY");
+        numeric.setIndex(Map.of("priority", List.of("5", "7.5")));
+        numeric.setLogic(Map.of(">", List.of(Map.of("var", "priority"), 1)));
+        numeric.setAction(rule.getAction());
+        RecordSchema schema = RecordSchema.builder().rules(List.of(numeric)).build();
+
+        assertTrue(assertParity(numeric, schema, "{\"priority\":5}"));
+        assertTrue(assertParity(numeric, schema, "{\"priority\":7.5}"));
+        assertFalse(assertParity(numeric, schema, "{\"priority\":5.0}"));
+        assertTrue(assertParity(numeric, schema, "{\"priority\":\"5\"}"));
+    }
+
+    @Test
+    void testEvaluate_ArraysAndMissing_MatchMapResult() throws Exception {
+        Rule arrays = new Rule();
+        arrays.setRuleId("ARRAYS");
+        arrays.setLogic(Map.of("and", List.of(
+                Map.of("in", List.of("VIP", Map.of("var", "tags"))),
+                Map.of("!", List.of(Map.of("missing", List.of("payment.amount.value")))))));
+        arrays.setAction(rule.getAction());
+        RecordSchema schema = RecordSchema.builder().rules(List.of(arrays)).build();
+
+        assertTrue(assertParity(arrays, schema, "{\"tags\":[\"VIP\",\"X\"],\"payment\":{\"amount\":{\"value\":1}}}"));
+        assertFalse(assertParity(arrays, schema, "{\"tags\":[\"VIP\"],\"payment\":{\"amount\":{}}}"));
+        assertFalse(assertParity(arrays, schema, "{\"tags\":[\"X\"],\"payment\":{\"amount\":{\"value\":1}}}"));
+    }
+
+    @Test
+    void testBuild_ComputedReference_Rejected() {
+        Rule computed = new Rule();
+        computed.setLogic(Map.of("var", Map.of("cat", List.of("payment.", "amount"))));
+
+        assertThrows(IllegalArgumentException.class, () -> RecordSchema.builder().rules(List.of(computed)));
+    }
+
+    @Test
+    void testEvaluate_RuleOutsideSchema_Rejected() throws Exception {
+        Rule other = new Rule();
+        other.setRuleId("OTHER_RULE");
+        other.setLogic(Map.of("==", List.of(Map.of("var", "channel"), "SWIFT")));
+        RecordSchema schema = RecordSchema.builder().rules(List.of(other)).build();
+
+        Rule uncovered = new Rule();
+        uncovered.setRuleId("UNCOVERED_RULE");
+        uncovered.setIndex(Map.of("country", List.of("SA")));
+        FlatRecord record = new FlatRecordReader(schema, objectMapper.getFactory())
+                .read("{\"country\":\"SA\"}".getBytes(StandardCharsets.UTF_8));
+
+        assertThrows(IllegalArgumentException.class, () -> ruleService.evaluate(uncovered, record));
+        assertTrue(schema.covers(other));
+        assertFalse(schema.covers(uncovered));
+    }
+
+    /**
+     * @return Whether the rule triggered, after asserting both paths agree
+     */
+    private boolean assertParity(Rule rule, RecordSchema schema, String json) throws Exception {
+        FlatRecord record = new FlatRecordReader(schema, objectMapper.getFactory())
+                .read(json.getBytes(StandardCharsets.UTF_8));
+
+        Optional<Action> flat = ruleService.evaluate(rule, record);
+        Optional<Action> map = ruleService.evaluate(rule, objectMapper.readValue(json, Map.class));
+
+        assertEquals(map.isPresent(), flat.isPresent(), json);
+        return flat.isPresent();
+    }
+
+    private FlatRecord read(RecordSchema schema) throws Exception {
+        return new FlatRecordReader(schema, objectMapper.getFactory()).read(JSON.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -5,11 +5,19 @@ import com.example.jexpression.model.Amount;
 import com.example.jexpression.model.Payment;
 import com.example.jexpression.model.Rule;
 import com.example.jexpression.model.Transaction;
+import com.example.jexpression.monitoring.RuleBatchEvaluationEvent;
+import com.example.jexpression.monitoring.RuleEvaluationEvent;
 import com.example.jexpression.service.RuleService;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -58,6 +66,56 @@ class RuleServiceTest {
         assertTrue(result.isEmpty());
       }
 
+    @Test
+    void testEvaluate_EmitsJfrEvent() throws Exception {
+        Rule rule = createRule();
+        Transaction tx = createTransaction("SA", "SWIFT", 50.0, "SAR");
+
+        Path dump = Files.createTempFile("rule-evaluation", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RuleEvaluationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            ruleService.evaluate(rule, tx);
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump);
+            assertEquals(1, events.size());
+            assertEquals("TEST_RULE", events.get(0).getString("ruleId"));
+            assertEquals(RuleService.ENGINE, events.get(0).getString("engine"));
+            assertEquals("TRIGGERED", events.get(0).getString("outcome"));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
+    @Test
+    void testEvaluateAll_EmitsBatchJfrEvent() throws Exception {
+        Rule rule = createRule();
+        List<Transaction> batch = List.of(
+                createTransaction("SA", "SWIFT", 50.0, "SAR"),
+                createTransaction("AE", "SWIFT", 50.0, "SAR"),
+                createTransaction("SA", "SWIFT", 150.0, "SAR"));
+
+        Path dump = Files.createTempFile("rule-batch", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(RuleBatchEvaluationEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+            ruleService.evaluateAll(rule, batch);
+            recording.stop();
+            recording.dump(dump);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(dump).stream()
+                    .filter(e -> e.getEventType().getName().equals("com.example.jexpression.RuleBatchEvaluation"))
+                    .toList();
+            assertEquals(1, events.size());
+            assertEquals(3, events.get(0).getInt("itemCount"));
+            assertEquals(0, events.get(0).getInt("failedItemCount"));
+        } finally {
+            Files.deleteIfExists(dump);
+        }
+    }
+
     private Rule createRule() {
       Rule rule = new Rule();
       rule.setRuleId("TEST_RULE");
@@ -0,0 +1,96 @@
+package com.example.jexpression;
+
+import com.example.jexpression.droolsfeel.FeelRuleEngine;
+import com.example.jexpression.droolsfeel.converter.RuleConverter;
+import com.example.jexpression.droolsfeel.model.Validation;
+import com.example.jexpression.droolsfeel.model.ValidationRule;
+import com.example.jexpression.droolsfeel.tenant.TenantOverlay;
+import com.example.jexpression.droolsfeel.tenant.TenantRuleRegistry;
+import com.example.jexpression.droolsfeel.tenant.TenantRuleSet;
+import com.example.jexpression.model.Transaction;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TenantRuleRegistryTest {
+
+    private FeelRuleEngine engine;
+    private TenantRuleRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        engine = new FeelRuleEngine();
+        registry = new TenantRuleRegistry(engine, "transaction", Long.MAX_VALUE);
+        registry.setBaseRules(List.of(
+                rule("MIN_AMOUNT", "transaction.amount", "number", "GreaterOrEqual", "30"),
+                rule("COUNTRY", "transaction.country", "string", "In", "SA", "AE")));
+    }
+
+    @Test
+    void testRuleSet_OverlayRemovesAndAddsRules() {
+        registry.putOverlay("bank-a", new TenantOverlay(
+                List.of(rule("CHANNEL", "transaction.channel", "string", "Equals", "SWIFT")),
+                Set.of("COUNTRY")));
+
+        TenantRuleSet ruleSet = registry.ruleSet("bank-a");
+
+        assertEquals(List.of("MIN_AMOUNT", "CHANNEL"),
+                ruleSet.rules().stream().map(r -> r.code()).toList());
+    }
+
+    @Test
+    void testValidate_CompiledRuleSet_ReturnsFailedCodes() {
+        Transaction tx = new Transaction();
+        tx.setAmount(10.0);
+        tx.setCountry("SA");
+
+        List<String> failures = engine.validate(registry.ruleSet("bank-a"), tx);
+
+        assertEquals(List.of("MIN_AMOUNT"), failures);
+    }
+
+    @Test
+    void testValidate_RuleWithoutValidations_FailsLikeConverterPath() {
+        ValidationRule empty = new ValidationRule("EMPTY", "EMPTY", "Enabled", List.of());
+        registry.setBaseRules(List.of(empty));
+        Transaction tx = new Transaction();
+
+        List<String> converted = engine.validate(new RuleConverter().convert(List.of(empty)), tx, "transaction");
+
+        assertEquals(List.of("EMPTY"), converted);
+        assertEquals(converted, engine.validate(registry.ruleSet("bank-a"), tx));
+    }
+
+    @Test
+    void testRuleSet_SharesCompiledNodesAcrossTenants() {
+        TenantRuleSet a = registry.ruleSet("bank-a");
+        TenantRuleSet b = registry.ruleSet("bank-b");
+
+        assertSame(a.rules().get(0).clauses().get(0), b.rules().get(0).clauses().get(0));
+        assertTrue(registry.totalMemoryUsage() < registry.memoryUsage("bank-a") + registry.memoryUsage("bank-b"));
+    }
+
+    @Test
+    void testRuleSet_EvictsLeastRecentlyUsedOverBudget() {
+        registry = new TenantRuleRegistry(engine, "transaction", 1);
+        registry.setBaseRules(List.of(rule("MIN_AMOUNT", "transaction.amount", "number", "GreaterOrEqual", "30")));
+        registry.putOverlay("bank-b", new TenantOverlay(
+                List.of(rule("CHANNEL", "transaction.channel", "string", "Equals", "SWIFT")), Set.of()));
+
+        registry.ruleSet("bank-a");
+        registry.ruleSet("bank-b");
+
+        assertEquals(Set.of("bank-b"), registry.loadedTenants());
+        assertEquals(0, registry.memoryUsage("bank-a"));
+        assertEquals(1, registry.ruleSet("bank-a").rules().size());
+    }
+
+    private ValidationRule rule(String code, String field, String type, String op, String... values) {
+        return new ValidationRule(code, code, "Enabled",
+                List.of(new Validation(field, type, op, null, List.of(values))));
+    }
+}
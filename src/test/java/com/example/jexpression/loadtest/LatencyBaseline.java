@@ -0,0 +1,60 @@
+package com.example.jexpression.loadtest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Stored p99 latency and throughput per scenario, kept in
+ * {@code src/test/resources/loadtest/baseline.properties}.
+ */
+final class LatencyBaseline {
+
+    static final Path SOURCE_FILE = Path.of("src/test/resources/loadtest/baseline.properties");
+    private static final String RESOURCE = "/loadtest/baseline.properties";
+
+    private final Properties properties = new Properties();
+
+    LatencyBaseline() throws IOException {
+        try (InputStream in = LatencyBaseline.class.getResourceAsStream(RESOURCE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        }
+    }
+
+    boolean has(String scenario) {
+        return properties.containsKey(scenario + ".p99Micros")
+                && properties.containsKey(scenario + ".throughputPerSecond");
+    }
+
+    double p99Micros(String scenario) {
+        return Double.parseDouble(properties.getProperty(scenario + ".p99Micros"));
+    }
+
+    double throughputPerSecond(String scenario) {
+        return Double.parseDouble(properties.getProperty(scenario + ".throughputPerSecond"));
+    }
+
+    /**
+     * Store the worst p99 and throughput of several runs of one scenario.
+     */
+    void update(List<LoadResult> runs) {
+        String scenario = runs.get(0).scenario();
+        double p99 = runs.stream().mapToDouble(LoadResult::p99Micros).max().orElseThrow();
+        double throughput = runs.stream().mapToDouble(LoadResult::throughputPerSecond).min().orElseThrow();
+        properties.setProperty(scenario + ".p99Micros", "%.1f".formatted(p99));
+        properties.setProperty(scenario + ".throughputPerSecond", "%.0f".formatted(throughput));
+    }
+
+    void save() throws IOException {
+        Files.createDirectories(SOURCE_FILE.getParent());
+        try (OutputStream out = Files.newOutputStream(SOURCE_FILE)) {
+            properties.store(out, "Load-test baseline, regenerate with: mvn test -Pload-test -Dloadtest.updateBaseline=true");
+        }
+    }
+}
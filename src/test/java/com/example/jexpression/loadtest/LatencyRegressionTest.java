@@ -0,0 +1,169 @@
+package com.example.jexpression.loadtest;
+
+import com.example.jexpression.async.AsyncRuleEvaluator;
+import com.example.jexpression.droolsfeel.FeelRuleEngine;
+import com.example.jexpression.droolsfeel.converter.RuleConverter;
+import com.example.jexpression.droolsfeel.model.FeelRule;
+import com.example.jexpression.droolsfeel.model.Validation;
+import com.example.jexpression.droolsfeel.model.ValidationRule;
+import com.example.jexpression.model.Rule;
+import com.example.jexpression.model.Transaction;
+import com.example.jexpression.service.RuleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * End-to-end latency regression suite, run with {@code mvn test -Pload-test}.
+ * 
+ * Each scenario runs at a fixed open-loop rate of about 40-60% of its measured
+ * saturation point (jsonLogic ~27000/s, feel ~64/s, feelAsync ~8000/s), the
+ * highest rate whose p99 stays stable between runs; above it queueing makes p99
+ * swing by orders of magnitude. The achieved throughput equals the offered rate
+ * unless the engine falls behind, so the throughput check catches a scenario
+ * that can no longer sustain its rate, while the p99 check catches latency
+ * regressions below it.
+ * A scenario without a stored baseline fails.
+ * 
+ * loadtest.updateBaseline=true runs each scenario loadtest.baselineRuns times
+ * (default 3) and stores the worst measured p99 and throughput, as p99 varies
+ * 2-4x between identical runs on a small machine.
+ * 
+ * Tunables (system properties): loadtest.&lt;scenario&gt;.rate, loadtest.warmupSeconds,
+ * loadtest.seconds, loadtest.workers, loadtest.p99Tolerance (default 0.5) and
+ * loadtest.throughputTolerance (default 0.1).
+ */
+@Tag("load")
+class LatencyRegressionTest {
+
+    private static final int WARMUP_SECONDS = Integer.getInteger("loadtest.warmupSeconds", 5);
+    private static final int MEASURE_SECONDS = Integer.getInteger("loadtest.seconds", 10);
+    private static final int WORKERS = Integer.getInteger("loadtest.workers", 4);
+    private static final double P99_TOLERANCE = Double.parseDouble(System.getProperty("loadtest.p99Tolerance", "0.5"));
+    private static final double THROUGHPUT_TOLERANCE =
+            Double.parseDouble(System.getProperty("loadtest.throughputTolerance", "0.1"));
+    private static final boolean UPDATE_BASELINE = Boolean.getBoolean("loadtest.updateBaseline");
+    private static final int BASELINE_RUNS = Integer.getInteger("loadtest.baselineRuns", 3);
+
+    private static ObjectMapper mapper;
+    private static ExecutorService workers;
+    private static LatencyBaseline baseline;
+    private static List<Transaction> transactions;
+
+    @BeforeAll
+    static void setup() throws Exception {
+        mapper = new ObjectMapper();
+        workers = Executors.newFixedThreadPool(WORKERS);
+        baseline = new LatencyBaseline();
+        transactions = new TransactionGenerator(42).generate(10_000);
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        workers.shutdown();
+        if (UPDATE_BASELINE) {
+            baseline.save();
+        }
+    }
+
+    @Test
+    void jsonLogicEvaluate(TestReporter reporter) throws Exception {
+        RuleService service = new RuleService(mapper);
+        Rule rule;
+        try (InputStream in = new ClassPathResource("rule.json").getInputStream()) {
+            rule = mapper.readValue(in, Rule.class);
+        }
+
+        check(reporter, () -> generator("jsonLogic", 16_000).run("jsonLogic", OpenLoopLoadGenerator.blocking(
+                i -> service.evaluate(rule, transaction(i)), workers)));
+    }
+
+    @Test
+    void feelValidate(TestReporter reporter) throws Exception {
+        FeelRuleEngine engine = new FeelRuleEngine();
+        List<FeelRule> rules = feelRules();
+
+        check(reporter, () -> generator("feel", 30).run("feel", OpenLoopLoadGenerator.blocking(
+                i -> engine.validate(rules, transaction(i), "transaction"), workers)));
+    }
+
+    @Test
+    void feelValidateAsync(TestReporter reporter) throws Exception {
+        AsyncRuleEvaluator evaluator = new AsyncRuleEvaluator(
+                new RuleService(mapper), new FeelRuleEngine(), 64, 200, WORKERS);
+        List<FeelRule> rules = feelRules();
+        try {
+            check(reporter, () -> generator("feelAsync", 3_000).run("feelAsync",
+                    i -> evaluator.validate(rules, transaction(i), "transaction")));
+        } finally {
+            evaluator.close();
+        }
+    }
+
+    private void check(TestReporter reporter, Callable<LoadResult> scenario) throws Exception {
+        if (UPDATE_BASELINE) {
+            List<LoadResult> runs = new ArrayList<>();
+            for (int i = 0; i < BASELINE_RUNS; i++) {
+                runs.add(measure(reporter, scenario));
+            }
+            baseline.update(runs);
+            return;
+        }
+
+        LoadResult result = measure(reporter, scenario);
+        assertTrue(baseline.has(result.scenario()),
+                "No baseline for " + result.scenario() + ", run with -Dloadtest.updateBaseline=true");
+
+        double maxP99 = baseline.p99Micros(result.scenario()) * (1 + P99_TOLERANCE);
+        double minThroughput = baseline.throughputPerSecond(result.scenario()) * (1 - THROUGHPUT_TOLERANCE);
+        assertTrue(result.p99Micros() <= maxP99,
+                "%s p99 regressed: %.1fus > %.1fus".formatted(result.scenario(), result.p99Micros(), maxP99));
+        assertTrue(result.throughputPerSecond() >= minThroughput,
+                "%s throughput regressed: %.0f/s < %.0f/s".formatted(
+                        result.scenario(), result.throughputPerSecond(), minThroughput));
+    }
+
+    private static LoadResult measure(TestReporter reporter, Callable<LoadResult> scenario) throws Exception {
+        LoadResult result = scenario.call();
+        reporter.publishEntry(result.scenario(), result.toString());
+        assertEquals(0, result.errors(), result.scenario() + " had errors");
+        return result;
+    }
+
+    private static OpenLoopLoadGenerator generator(String scenario, int defaultRate) {
+        int rate = Integer.getInteger("loadtest." + scenario + ".rate", defaultRate);
+        return new OpenLoopLoadGenerator(rate, WARMUP_SECONDS, MEASURE_SECONDS);
+    }
+
+    private static Transaction transaction(int sequence) {
+        return transactions.get(sequence % transactions.size());
+    }
+
+    private static List<FeelRule> feelRules() {
+        return new RuleConverter().convert(List.of(
+                rule("MIN_AMOUNT", new Validation("transaction.amount", "number", "GreaterOrEqual", null, List.of("30"))),
+                rule("MESSAGE_TYPE", new Validation("transaction.messageType", "string", "In", null,
+                        List.of("pain.001", "pacs.008"))),
+                rule("IBAN", new Validation("transaction.beneficiaryIban", "string", "Matches", null,
+                        List.of("^[A-Z]{2}[0-9]+$"))),
+                rule("EXECUTION_DATE", new Validation("transaction.requestedExecutionDate", "date", "Between", null,
+                        List.of("2025-11-01", "2025-12-15")))));
+    }
+
+    private static ValidationRule rule(String code, Validation validation) {
+        return new ValidationRule(code, code, "Enabled", List.of(validation));
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.jexpression.loadtest;
+
+/**
+ * Latency percentiles (microseconds) and achieved throughput of one load run.
+ */
+record LoadResult(
+        String scenario,
+        long count,
+        long errors,
+        double p50Micros,
+        double p99Micros,
+        double p999Micros,
+        double maxMicros,
+        double throughputPerSecond
+) {
+    @Override
+    public String toString() {
+        return "%s: count=%d errors=%d p50=%.1fus p99=%.1fus p99.9=%.1fus max=%.1fus throughput=%.0f/s"
+                .formatted(scenario, count, errors, p50Micros, p99Micros, p999Micros, maxMicros, throughputPerSecond);
+    }
+}
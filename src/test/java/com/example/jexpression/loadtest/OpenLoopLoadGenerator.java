@@ -0,0 +1,118 @@
+package com.example.jexpression.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load generator.
+ * 
+ * Requests are issued on a fixed schedule regardless of how fast earlier ones
+ * complete, and latency is measured from each request's intended start time,
+ * so queueing behind a stalled request shows up in the percentiles instead of
+ * being hidden (coordinated omission).
+ */
+final class OpenLoopLoadGenerator {
+
+    /**
+     * One request; the future completes when the response is available.
+     */
+    @FunctionalInterface
+    interface Operation {
+        CompletableFuture<?> start(int sequence);
+    }
+
+    /**
+     * Blocking call that may throw, run on a worker pool.
+     */
+    @FunctionalInterface
+    interface BlockingCall {
+        void call(int sequence) throws Exception;
+    }
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(1);
+
+    private final int ratePerSecond;
+    private final int warmupSeconds;
+    private final int measureSeconds;
+
+    OpenLoopLoadGenerator(int ratePerSecond, int warmupSeconds, int measureSeconds) {
+        this.ratePerSecond = ratePerSecond;
+        this.warmupSeconds = warmupSeconds;
+        this.measureSeconds = measureSeconds;
+    }
+
+    static Operation blocking(BlockingCall call, Executor workers) {
+        return sequence -> CompletableFuture.runAsync(() -> {
+            try {
+                call.call(sequence);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, workers);
+    }
+
+    LoadResult run(String scenario, Operation operation) throws InterruptedException, TimeoutException {
+        int warmupCount = ratePerSecond * warmupSeconds;
+        int total = warmupCount + ratePerSecond * measureSeconds;
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+
+        Histogram histogram = new ConcurrentHistogram(MAX_LATENCY_NANOS, 3);
+        AtomicLong errors = new AtomicLong();
+        AtomicLong lastCompletion = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(total);
+
+        long start = System.nanoTime();
+        long measureStart = start + warmupCount * intervalNanos;
+        for (int i = 0; i < total; i++) {
+            long intended = start + i * intervalNanos;
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = i >= warmupCount;
+            CompletableFuture<?> future;
+            try {
+                future = operation.start(i);
+            } catch (RuntimeException e) {
+                future = CompletableFuture.failedFuture(e);
+            }
+            future.whenComplete((result, error) -> {
+                long now = System.nanoTime();
+                if (measured) {
+                    histogram.recordValue(Math.min(now - intended, MAX_LATENCY_NANOS));
+                    lastCompletion.accumulateAndGet(now, Math::max);
+                    if (error != null) {
+                        errors.incrementAndGet();
+                    }
+                }
+                done.countDown();
+            });
+        }
+
+        if (!done.await(measureSeconds + 60L, TimeUnit.SECONDS)) {
+            throw new TimeoutException(scenario + ": " + done.getCount() + " requests still pending");
+        }
+
+        long count = histogram.getTotalCount();
+        double elapsedSeconds = (lastCompletion.get() - measureStart) / 1e9;
+        return new LoadResult(scenario, count, errors.get(),
+                micros(histogram.getValueAtPercentile(50)),
+                micros(histogram.getValueAtPercentile(99)),
+                micros(histogram.getValueAtPercentile(99.9)),
+                micros(histogram.getMaxValue()),
+                count / elapsedSeconds);
+    }
+
+    private static double micros(long nanos) {
+        return nanos / 1_000.0;
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.jexpression.loadtest;
+
+import com.example.jexpression.model.Amount;
+import com.example.jexpression.model.Payment;
+import com.example.jexpression.model.Transaction;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthesizes transactions with a skewed (Zipf) country/channel mix and
+ * log-normal amounts, so a few hot combinations dominate like in production.
+ */
+final class TransactionGenerator {
+
+    private static final String[] COUNTRIES = {"SA", "AE", "KW", "QA", "BH", "OM", "EG", "GB"};
+    private static final String[] CHANNELS = {"SWIFT", "SARIE", "RTGS", "ACH"};
+    private static final String[] CURRENCIES = {"SAR", "AED", "USD", "EUR"};
+    private static final String[] PURPOSE_CODES = {"PRDM_POP_AE", "SALA", "SUPP", "TRAD"};
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 11, 1);
+
+    private final Random random;
+    private final double[] countryCdf = zipfCdf(COUNTRIES.length, 1.2);
+    private final double[] channelCdf = zipfCdf(CHANNELS.length, 1.5);
+
+    TransactionGenerator(long seed) {
+        this.random = new Random(seed);
+    }
+
+    List<Transaction> generate(int count) {
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            transactions.add(next());
+        }
+        return transactions;
+    }
+
+    Transaction next() {
+        // Median around 100, long tail of large payments
+        double value = Math.round(Math.exp(4.6 + 1.5 * random.nextGaussian()) * 100) / 100.0;
+        String currency = CURRENCIES[random.nextInt(CURRENCIES.length)];
+
+        Amount amount = new Amount();
+        amount.setValue(value);
+        amount.setCurrency(currency);
+        Payment payment = new Payment();
+        payment.setAmount(amount);
+
+        Transaction tx = new Transaction();
+        tx.setCountry(COUNTRIES[pick(countryCdf)]);
+        tx.setChannel(CHANNELS[pick(channelCdf)]);
+        tx.setPayment(payment);
+        tx.setAmount(value);
+        tx.setMessageType(random.nextInt(10) < 8 ? "pain.001" : "pacs.008");
+        tx.setBeneficiaryIban(tx.getCountry() + "%020d".formatted(Math.abs(random.nextLong()) % 100_000_000_000L));
+        tx.setPurposeCode(PURPOSE_CODES[random.nextInt(PURPOSE_CODES.length)]);
+        tx.setTransactionDate(BASE_DATE.toString());
+        tx.setRequestedExecutionDate(BASE_DATE.plusDays(random.nextInt(60)).toString());
+        return tx;
+    }
+
+    private int pick(double[] cdf) {
+        double u = random.nextDouble();
+        for (int i = 0; i < cdf.length; i++) {
+            if (u < cdf[i]) {
+                return i;
+            }
+        }
+        return cdf.length - 1;
+    }
+
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int i = 0; i < n; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cdf[i] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+}